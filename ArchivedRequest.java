@@ -0,0 +1,113 @@
+package com.wardmanagement.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "requests_archive", indexes = {
+    @Index(name = "idx_requests_archive_member", columnList = "memberId"),
+    @Index(name = "idx_requests_archive_request_date", columnList = "requestDate")
+})
+public class ArchivedRequest {
+
+    @Id
+    private Long id; // Same id the request had in the live table
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    private String memberName;
+
+    @Column(nullable = false, length = 2000)
+    private String requestDescription;
+
+    @Column(nullable = false)
+    private LocalDateTime requestDate;
+
+    @Column(nullable = false)
+    private String status; // COMPLETED or REJECTED
+
+    private LocalDateTime completedDate;
+
+    @Column(length = 1000)
+    private String notes;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedDate;
+
+    // Constructors
+    public ArchivedRequest() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public void setMemberId(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+
+    public void setMemberName(String memberName) {
+        this.memberName = memberName;
+    }
+
+    public String getRequestDescription() {
+        return requestDescription;
+    }
+
+    public void setRequestDescription(String requestDescription) {
+        this.requestDescription = requestDescription;
+    }
+
+    public LocalDateTime getRequestDate() {
+        return requestDate;
+    }
+
+    public void setRequestDate(LocalDateTime requestDate) {
+        this.requestDate = requestDate;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCompletedDate() {
+        return completedDate;
+    }
+
+    public void setCompletedDate(LocalDateTime completedDate) {
+        this.completedDate = completedDate;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public LocalDateTime getArchivedDate() {
+        return archivedDate;
+    }
+
+    public void setArchivedDate(LocalDateTime archivedDate) {
+        this.archivedDate = archivedDate;
+    }
+}
@@ -0,0 +1,74 @@
+package com.wardmanagement.controller;
+
+import com.wardmanagement.model.ArchivedRequest;
+import com.wardmanagement.repository.ArchivedRequestRepository;
+import com.wardmanagement.service.RequestArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/archive/requests")
+@CrossOrigin(origins = "*")
+public class ArchivedRequestController {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    @Autowired
+    private ArchivedRequestRepository archivedRequestRepository;
+
+    @Autowired
+    private RequestArchiveService archiveService;
+
+    @GetMapping
+    public Page<ArchivedRequest> getArchivedRequests(@RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "50") int size,
+                                                     @RequestParam(required = false) String status) {
+        PageRequest pageRequest = pageOf(page, size);
+        if (status != null) {
+            return archivedRequestRepository.findByStatusOrderByRequestDateDesc(status, pageRequest);
+        }
+        return archivedRequestRepository.findAllByOrderByRequestDateDesc(pageRequest);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ArchivedRequest> getArchivedRequestById(@PathVariable Long id) {
+        return archivedRequestRepository.findById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/member/{memberId}")
+    public Page<ArchivedRequest> getArchivedRequestsByMember(@PathVariable Long memberId,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "50") int size) {
+        return archivedRequestRepository.findByMemberIdOrderByRequestDateDesc(memberId, pageOf(page, size));
+    }
+
+    @GetMapping("/range")
+    public Page<ArchivedRequest> getArchivedRequestsInRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return archivedRequestRepository.findByRequestDateBetweenOrderByRequestDateDesc(from, to, pageOf(page, size));
+    }
+
+    @PostMapping("/run")
+    public ResponseEntity<Map<String, Object>> runArchive() {
+        boolean started = archiveService.triggerArchive();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(Map.of("started", started, "running", archiveService.isRunning()));
+    }
+
+    private static PageRequest pageOf(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,26 @@
+package com.wardmanagement.repository;
+
+import com.wardmanagement.model.ArchivedRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface ArchivedRequestRepository extends JpaRepository<ArchivedRequest, Long> {
+    Page<ArchivedRequest> findAllByOrderByRequestDateDesc(Pageable pageable);
+    Page<ArchivedRequest> findByStatusOrderByRequestDateDesc(String status, Pageable pageable);
+    Page<ArchivedRequest> findByMemberIdOrderByRequestDateDesc(Long memberId, Pageable pageable);
+    Page<ArchivedRequest> findByRequestDateBetweenOrderByRequestDateDesc(LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO requests_archive (id, member_id, member_name, request_description, request_date, status, completed_date, notes, archived_date) "
+            + "SELECT r.id, r.member_id, m.name, r.request_description, r.request_date, r.status, r.completed_date, r.notes, :archivedDate "
+            + "FROM requests r JOIN family_members m ON m.id = r.member_id "
+            + "WHERE r.id IN (:ids) AND r.status IN (:statuses)", nativeQuery = true)
+    int copyFromRequests(Collection<Long> ids, Collection<String> statuses, LocalDateTime archivedDate);
+}
@@ -4,6 +4,7 @@ import com.wardmanagement.model.Family;
 import com.wardmanagement.model.FamilyMember;
 import com.wardmanagement.repository.FamilyRepository;
 import com.wardmanagement.repository.FamilyMemberRepository;
+import com.wardmanagement.service.SingleFlight;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +23,9 @@ public class FamilyController {
     @Autowired
     private FamilyMemberRepository memberRepository;
 
+    @Autowired
+    private SingleFlight singleFlight;
+
     @GetMapping
     public List<Family> getAllFamilies() {
         return familyRepository.findAll();
@@ -93,6 +97,10 @@ public class FamilyController {
     
     @GetMapping("/statistics")
     public ResponseEntity<Map<String, Object>> getStatistics() {
+        return ResponseEntity.ok(singleFlight.execute("families/statistics", this::computeStatistics));
+    }
+
+    private Map<String, Object> computeStatistics() {
         long totalFamilies = familyRepository.count();
         long totalMembers = memberRepository.count();
         long disabledCount = memberRepository.findByIsDisabledTrue().size();
@@ -107,6 +115,6 @@ public class FamilyController {
             "students", studentCount
         );
         
-        return ResponseEntity.ok(stats);
+        return stats;
     }
 }
\ No newline at end of file
@@ -2,11 +2,13 @@ package com.wardmanagement.controller;
 
 import com.wardmanagement.model.FamilyMember;
 import com.wardmanagement.repository.FamilyMemberRepository;
+import com.wardmanagement.service.SingleFlight;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/members")
@@ -16,6 +18,9 @@ public class FamilyMemberController {
     @Autowired
     private FamilyMemberRepository memberRepository;
 
+    @Autowired
+    private SingleFlight singleFlight;
+
     @GetMapping
     public List<FamilyMember> getAllMembers() {
         return memberRepository.findAll();
@@ -50,7 +55,8 @@ public class FamilyMemberController {
 
     @GetMapping("/search")
     public List<FamilyMember> searchMembers(@RequestParam String query) {
-        return memberRepository.searchByNameOrPhone(query);
+        String key = "members/search:" + query.toLowerCase(Locale.ROOT);
+        return singleFlight.execute(key, () -> memberRepository.searchByNameOrPhone(query));
     }
 
     @PutMapping("/{id}")
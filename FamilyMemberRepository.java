@@ -3,8 +3,11 @@ package com.wardmanagement.repository;
 import com.wardmanagement.model.FamilyMember;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface FamilyMemberRepository extends JpaRepository<FamilyMember, Long> {
@@ -15,4 +18,11 @@ public interface FamilyMemberRepository extends JpaRepository<FamilyMember, Long
     
     @Query("SELECT m FROM FamilyMember m WHERE LOWER(m.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<FamilyMember> searchByNameOrPhone(String searchTerm);
-}
\ No newline at end of file
+
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT m FROM FamilyMember m JOIN FETCH m.family f WHERE f.zone = :zone AND (m.isDisabled = true OR m.isSeniorCitizen = true OR m.isPensioner = true) ORDER BY f.houseNumber, m.id")
+    Stream<FamilyMember> streamBeneficiariesByZone(Integer zone);
+}
@@ -2,6 +2,7 @@ package com.wardmanagement.repository;
 
 import com.wardmanagement.model.Family;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -9,4 +10,7 @@ import java.util.List;
 public interface FamilyRepository extends JpaRepository<Family, Long> {
     List<Family> findByZone(Integer zone);
     List<Family> findByFamilyNameContainingIgnoreCase(String familyName);
-}
\ No newline at end of file
+
+    @Query("SELECT DISTINCT f.zone FROM Family f ORDER BY f.zone")
+    List<Integer> findDistinctZones();
+}
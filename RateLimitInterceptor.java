@@ -0,0 +1,92 @@
+package com.wardmanagement.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client token-bucket limiter for the expensive search and statistics
+ * endpoints. Clients are identified by {@link HttpServletRequest#getRemoteAddr()},
+ * so when the app runs behind a reverse proxy {@code server.forward-headers-strategy}
+ * must be set for each user to get their own bucket.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private final AtomicLong nextSweep = new AtomicLong(System.nanoTime());
+
+    @Value("${ward.rate-limit.capacity:20}")
+    private int capacity;
+
+    @Value("${ward.rate-limit.refill-per-second:5}")
+    private double refillPerSecond;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        evictIdleBuckets(now);
+
+        String clientKey = request.getRemoteAddr() + " " + request.getRequestURI();
+        TokenBucket bucket = buckets.computeIfAbsent(clientKey, key -> new TokenBucket(capacity, refillPerSecond, now));
+        if (bucket.tryConsume(now)) {
+            return true;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", "1");
+        return false;
+    }
+
+    /**
+     * A bucket idle for longer than it takes to refill completely is
+     * indistinguishable from a new one, so it can be dropped. Sweeps run at
+     * most once per refill window rather than on every request.
+     */
+    private void evictIdleBuckets(long now) {
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos((long) Math.ceil(capacity / refillPerSecond * 1000));
+        long scheduled = nextSweep.get();
+        if (now - scheduled < 0 || !nextSweep.compareAndSet(scheduled, now + idleNanos)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> now - bucket.lastAccess > idleNanos);
+    }
+
+    private static final class TokenBucket {
+
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private volatile long lastAccess;
+
+        TokenBucket(int capacity, double refillPerSecond, long now) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / 1_000_000_000d;
+            this.tokens = capacity;
+            this.lastAccess = now;
+        }
+
+        synchronized boolean tryConsume(long now) {
+            tokens = Math.min(capacity, tokens + Math.max(0, now - lastAccess) * refillPerNano);
+            lastAccess = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+    }
+}
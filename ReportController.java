@@ -0,0 +1,72 @@
+package com.wardmanagement.controller;
+
+import com.wardmanagement.service.RosterReportService;
+import com.wardmanagement.service.RosterReportService.RosterReport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/reports/rosters")
+@CrossOrigin(origins = "*")
+public class ReportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
+    @Autowired
+    private RosterReportService reportService;
+
+    @GetMapping
+    public List<Map<String, Object>> getRosters() {
+        return reportService.getReports().stream()
+                .map(report -> Map.<String, Object>of(
+                    "zone", report.zone(),
+                    "sha256", report.sha256(),
+                    "rows", report.rows(),
+                    "sizeBytes", report.sizeBytes(),
+                    "generatedAt", report.generatedAt().toString()
+                ))
+                .toList();
+    }
+
+    @GetMapping("/zone/{zone}")
+    public ResponseEntity<Resource> downloadRoster(@PathVariable Integer zone, WebRequest webRequest) {
+        return reportService.getReport(zone)
+                .map(report -> serve(report, webRequest))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/generate")
+    public ResponseEntity<Map<String, Object>> generateRosters() {
+        boolean started = reportService.generateAll();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(Map.of("started", started, "running", reportService.isRunning()));
+    }
+
+    private ResponseEntity<Resource> serve(RosterReport report, WebRequest webRequest) {
+        String etag = "\"" + report.sha256() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        String filename = "zone-" + report.zone() + "-roster.csv";
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .contentLength(report.sizeBytes())
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(new FileSystemResource(report.file()));
+    }
+}
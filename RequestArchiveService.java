@@ -0,0 +1,141 @@
+package com.wardmanagement.service;
+
+import com.wardmanagement.repository.ArchivedRequestRepository;
+import com.wardmanagement.repository.RequestRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves closed requests older than the configured age out of the live
+ * {@code requests} table into {@code requests_archive}, one keyset batch per
+ * transaction, so the hot request queries only scan active rows.
+ */
+@Service
+public class RequestArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestArchiveService.class);
+
+    private static final List<String> CLOSED_STATUSES = List.of("COMPLETED", "REJECTED");
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private ArchivedRequestRepository archivedRequestRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @Value("${ward.archive.max-age-days:90}")
+    private int maxAgeDays;
+
+    @Value("${ward.archive.batch-size:500}")
+    private int batchSize;
+
+    public RequestArchiveService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(cron = "${ward.archive.cron:0 0 2 * * *}")
+    public void archiveScheduled() {
+        if (running.compareAndSet(false, true)) {
+            runArchive();
+        } else {
+            log.info("Skipping scheduled archive pass, one is already running");
+        }
+    }
+
+    /**
+     * Starts an archive pass in the background. Returns false if a pass is
+     * already in progress.
+     */
+    public boolean triggerArchive() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            executor.execute(this::runArchive);
+            return true;
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void runArchive() {
+        try {
+            int archived = archiveClosedRequests();
+            if (archived > 0) {
+                log.info("Archived {} closed requests older than {} days", archived, maxAgeDays);
+            }
+        } catch (RuntimeException e) {
+            log.error("Request archive pass failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int archiveClosedRequests() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+        long lastId = 0L;
+        int total = 0;
+
+        while (true) {
+            long afterId = lastId;
+            BatchResult batch = transactionTemplate.execute(status -> archiveBatch(cutoff, afterId));
+            if (batch == null || batch.selected() == 0) {
+                return total;
+            }
+            total += batch.archived();
+            lastId = batch.lastId();
+            if (batch.selected() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private BatchResult archiveBatch(LocalDateTime cutoff, long afterId) {
+        List<Long> ids = requestRepository.lockArchivableIdsAfter(
+                CLOSED_STATUSES, cutoff, afterId, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return new BatchResult(0, 0, afterId);
+        }
+
+        // The rows stay locked until commit, so the copy and the delete see the same closed set
+        int copied = archivedRequestRepository.copyFromRequests(ids, CLOSED_STATUSES, LocalDateTime.now());
+        int deleted = requestRepository.deleteByIdInAndStatusIn(ids, CLOSED_STATUSES);
+        if (copied != deleted) {
+            throw new IllegalStateException("Archived " + copied + " requests but removed " + deleted);
+        }
+        return new BatchResult(ids.size(), deleted, ids.get(ids.size() - 1));
+    }
+
+    private record BatchResult(int selected, int archived, long lastId) {}
+}
@@ -1,8 +1,17 @@
 package com.wardmanagement.repository;
 
 import com.wardmanagement.model.Request;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -10,4 +19,14 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
     List<Request> findByStatus(String status);
     List<Request> findByMemberId(Long memberId);
     List<Request> findAllByOrderByRequestDateDesc();
-}
\ No newline at end of file
+
+    // Locks the selected rows (skipping any held by a concurrent update) until the batch commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r.id FROM Request r WHERE r.status IN :statuses AND COALESCE(r.completedDate, r.requestDate) < :cutoff AND r.id > :afterId ORDER BY r.id")
+    List<Long> lockArchivableIdsAfter(Collection<String> statuses, LocalDateTime cutoff, Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Request r WHERE r.id IN :ids AND r.status IN :statuses")
+    int deleteByIdInAndStatusIn(Collection<Long> ids, Collection<String> statuses);
+}
@@ -0,0 +1,299 @@
+package com.wardmanagement.service;
+
+import com.wardmanagement.model.Family;
+import com.wardmanagement.model.FamilyMember;
+import com.wardmanagement.repository.FamilyMemberRepository;
+import com.wardmanagement.repository.FamilyRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Builds per-zone beneficiary rosters (disabled members, senior citizens and
+ * pensioners) off-peak into CSV files named by their content hash. Reads are
+ * served from the files alone, so printing rosters never touches the database.
+ * Superseded files are kept until the start of the next run so downloads that
+ * already picked up the old file can finish.
+ */
+@Service
+public class RosterReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(RosterReportService.class);
+
+    private static final Pattern REPORT_FILE = Pattern.compile("zone-(\\d+)-(\\d+)-([0-9a-f]{64})\\.csv");
+
+    private static final String HEADER = "Zone,House Number,Family Name,Address,Member Name,Relation,"
+            + "Date of Birth,Phone Number,Disabled,Senior Citizen,Pensioner,Pension Type,Medical Needs";
+
+    private static final int CLEAR_EVERY_ROWS = 500;
+
+    public record RosterReport(Integer zone, String sha256, long rows, long sizeBytes, Instant generatedAt, Path file) {}
+
+    @Autowired
+    private FamilyRepository familyRepository;
+
+    @Autowired
+    private FamilyMemberRepository memberRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<Integer, RosterReport> reports = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private ExecutorService executor;
+
+    @Value("${ward.reports.directory:reports/rosters}")
+    private String directory;
+
+    @Value("${ward.reports.threads:2}")
+    private int threads;
+
+    public RosterReportService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        executor = Executors.newFixedThreadPool(Math.max(threads, 1));
+        Files.createDirectories(reportDirectory());
+        loadExistingReports();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(cron = "${ward.reports.cron:0 0 1 1 * *}")
+    public void generateScheduled() {
+        generateAll();
+    }
+
+    /**
+     * Starts regenerating every zone in the background. Returns false if a
+     * run is already in progress.
+     */
+    public boolean generateAll() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            deleteUnreferencedFiles();
+            List<Integer> zones = familyRepository.findDistinctZones();
+            CompletableFuture<?>[] tasks = zones.stream()
+                    .map(zone -> CompletableFuture.runAsync(() -> generateZone(zone), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(tasks).whenComplete((ignored, error) -> {
+                reports.keySet().retainAll(zones);
+                running.set(false);
+                if (error != null) {
+                    log.error("Roster generation failed", error);
+                } else {
+                    log.info("Generated rosters for {} zones", zones.size());
+                }
+            });
+            return true;
+        } catch (IOException e) {
+            running.set(false);
+            throw new UncheckedIOException("Failed to clean up roster directory", e);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public List<RosterReport> getReports() {
+        return reports.values().stream()
+                .sorted((a, b) -> a.zone().compareTo(b.zone()))
+                .toList();
+    }
+
+    public Optional<RosterReport> getReport(Integer zone) {
+        return Optional.ofNullable(reports.get(zone));
+    }
+
+    private void generateZone(Integer zone) {
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(reportDirectory(), "zone-" + zone + "-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long rows;
+            try (DigestOutputStream out = new DigestOutputStream(Files.newOutputStream(tempFile), digest);
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                rows = readOnlyTransaction.execute(status -> writeRoster(zone, writer));
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path target = reportDirectory().resolve("zone-" + zone + "-" + rows + "-" + sha256 + ".csv");
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            RosterReport report = new RosterReport(zone, sha256, rows, Files.size(target), Instant.now(), target);
+            reports.put(zone, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write roster for zone " + zone, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    log.warn("Could not remove temporary roster file {}", tempFile, e);
+                }
+            }
+        }
+    }
+
+    private long writeRoster(Integer zone, Writer writer) {
+        long rows = 0;
+        try (Stream<FamilyMember> members = memberRepository.streamBeneficiariesByZone(zone)) {
+            writer.write(HEADER);
+            writer.write('\n');
+            for (FamilyMember member : (Iterable<FamilyMember>) members::iterator) {
+                writeRow(writer, member);
+                if (++rows % CLEAR_EVERY_ROWS == 0) {
+                    entityManager.clear();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    private void writeRow(Writer writer, FamilyMember member) throws IOException {
+        Family family = member.getFamily();
+        String[] values = {
+            String.valueOf(family.getZone()),
+            String.valueOf(family.getHouseNumber()),
+            neutraliseFormula(family.getFamilyName()),
+            neutraliseFormula(family.getAddress()),
+            neutraliseFormula(member.getName()),
+            member.getRelation(),
+            String.valueOf(member.getDateOfBirth()),
+            member.getPhoneNumber(),
+            yesNo(member.getIsDisabled()),
+            yesNo(member.getIsSeniorCitizen()),
+            yesNo(member.getIsPensioner()),
+            neutraliseFormula(member.getPensionType()),
+            neutraliseFormula(member.getMedicalNeeds())
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static String yesNo(Boolean value) {
+        return Boolean.TRUE.equals(value) ? "Yes" : "No";
+    }
+
+    // Only applied to free-text columns; phone numbers, dates and flags are written verbatim
+    private static String neutraliseFormula(String value) {
+        if (value == null || value.isEmpty() || "=+-@\t\r".indexOf(value.charAt(0)) < 0) {
+            return value;
+        }
+        return "'" + value;
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private Path reportDirectory() {
+        return Paths.get(directory);
+    }
+
+    private void loadExistingReports() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(reportDirectory(), "zone-*.csv")) {
+            for (Path file : files) {
+                Matcher matcher = REPORT_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                Integer zone = Integer.valueOf(matcher.group(1));
+                long rows = Long.parseLong(matcher.group(2));
+                Instant modified = Files.getLastModifiedTime(file).toInstant();
+                RosterReport report = new RosterReport(zone, matcher.group(3), rows, Files.size(file), modified, file);
+                reports.merge(zone, report, (a, b) -> a.generatedAt().isAfter(b.generatedAt()) ? a : b);
+            }
+        }
+        deleteUnreferencedFiles();
+    }
+
+    /**
+     * Removes superseded rosters, rosters of zones that no longer exist and
+     * temporary files left behind by an interrupted run.
+     */
+    private void deleteUnreferencedFiles() throws IOException {
+        Set<Path> current = reports.values().stream()
+                .map(RosterReport::file)
+                .collect(Collectors.toSet());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(reportDirectory(), "zone-*")) {
+            for (Path file : files) {
+                if (!current.contains(file)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
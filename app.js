@@ -85,6 +85,9 @@ function switchSection(section) {
 async function loadDashboardData() {
     try {
         const response = await fetch(`${API_BASE_URL}/families/statistics`);
+        if (response.status === 429) {
+            return;
+        }
         const stats = await response.json();
         
         document.getElementById('totalFamilies').textContent = stats.totalFamilies;
@@ -187,14 +190,32 @@ function displayFamilies(families) {
     `).join('');
 }
 
+// Delay before retrying a rate-limited request, taken from the Retry-After header
+function retryDelayMs(response) {
+    const seconds = parseInt(response.headers.get('Retry-After'), 10);
+    return (isNaN(seconds) ? 1 : seconds) * 1000;
+}
+
 // Member Functions
-async function loadMembers(searchQuery = '') {
+async function loadMembers(searchQuery = '', isRetry = false) {
     try {
         const url = searchQuery 
             ? `${API_BASE_URL}/members/search?query=${encodeURIComponent(searchQuery)}`
             : `${API_BASE_URL}/members`;
         
         const response = await fetch(url);
+        if (isRetry && document.getElementById('memberSearch').value !== searchQuery) {
+            return; // A newer search has taken over the list
+        }
+        if (response.status === 429) {
+            if (isRetry) {
+                showNotification('Too many searches, please try again shortly', 'error');
+            } else {
+                showNotification('Too many searches, retrying...', 'info');
+                setTimeout(() => loadMembers(searchQuery, true), retryDelayMs(response));
+            }
+            return;
+        }
         membersData = await response.json();
         displayMembers(membersData);
     } catch (error) {
@@ -806,10 +827,12 @@ function initializeEventListeners() {
         displayFamilies(filtered);
     });
 
+    let memberSearchTimeout;
     document.getElementById('memberSearch').addEventListener('input', (e) => {
+        clearTimeout(memberSearchTimeout);
         const query = e.target.value;
         if (query.length >= 2) {
-            loadMembers(query);
+            memberSearchTimeout = setTimeout(() => loadMembers(query), 300);
         } else if (query.length === 0) {
             loadMembers();
         }
@@ -884,12 +907,25 @@ function initializeEventListeners() {
     });
 }
 
-async function searchPersonForRequest(query) {
+async function searchPersonForRequest(query, isRetry = false) {
     try {
         const response = await fetch(`${API_BASE_URL}/members/search?query=${encodeURIComponent(query)}`);
+        const resultsContainer = document.getElementById('personSearchResults');
+        if (isRetry && document.getElementById('requestPersonSearch').value !== query) {
+            return; // A newer search has taken over the dropdown
+        }
+        if (response.status === 429) {
+            resultsContainer.classList.remove('active');
+            if (isRetry) {
+                showNotification('Too many searches, please try again shortly', 'error');
+            } else {
+                showNotification('Too many searches, retrying...', 'info');
+                setTimeout(() => searchPersonForRequest(query, true), retryDelayMs(response));
+            }
+            return;
+        }
         const members = await response.json();
         
-        const resultsContainer = document.getElementById('personSearchResults');
         
         if (members.length === 0) {
             resultsContainer.innerHTML = '<div style="padding: 1rem; text-align: center; color: var(--text-secondary);">No members found</div>';